@@ -316,14 +316,22 @@ public class SlidePuzzle implements Comparable<SlidePuzzle> {
         return 0;
     }
 
+    /**
+     * Heuristic function based on number of misplaced tiles, not counting the blank
+     * 
+     * @param state State of the board
+     * @return Function value
+     */
     private int h1(SlidePuzzle state) {
         int misplaced = 0;
         int count = 0;
         for (int i = 0; i < m; i++) {
             for (int j = 0; j < n; j++) {
-                if (grid[i][j] != count++) {
+                int tile = state.grid[i][j];
+                if (tile != 0 && tile != count) {
                     misplaced++;
                 }
+                count++;
             }
         }
         
@@ -359,6 +367,26 @@ public class SlidePuzzle implements Comparable<SlidePuzzle> {
      * @throws OutOfMemoryError Max node limit exceeded
      */
     private int solveH2() throws OutOfMemoryError {
+        List<String> path = new LinkedList<>();
+        int nodes = searchH2(path);
+
+        if (nodes >= 0) {
+            System.out.println(path.toString());
+            System.out.println("Nodes considered: " + nodes);
+            return path.size();
+        }
+        System.out.println("No path found.");
+        return 0;
+    }
+
+    /**
+     * Runs A* search using h2 without printing anything
+     * 
+     * @param path List to append the solution moves to
+     * @return Number of nodes considered, or -1 if no path was found
+     * @throws OutOfMemoryError Max node limit exceeded
+     */
+    private int searchH2(List<String> path) throws OutOfMemoryError {
         // min cost heap
         PriorityQueue<SlidePuzzle> pq = new PriorityQueue<>();
 
@@ -407,46 +435,51 @@ public class SlidePuzzle implements Comparable<SlidePuzzle> {
         }
 
         // Extract path
-        SlidePuzzle trav = null;
-        if (visited.containsKey(key)) {
-            trav = visited.get(key);
-            int moveCount = 0;
-            List<String> path = new LinkedList<>();
-            while (trav != null) {
-                path.add(trav.prevMove);
-                moveCount++;
-                trav = trav.parent;
-            }
-            path.remove(path.size()-1);
-            Collections.reverse(path);
-            System.out.println(path.toString());
-            System.out.println("Nodes considered: " + nodes);
-            return moveCount-1;
+        if (!visited.containsKey(key)) {
+            return -1;
         }
-        System.out.println("No path found.");
-        return 0;
+        path.addAll(extractPath(visited.get(key)));
+        return nodes;
+    }
+
+    /**
+     * Follows parent pointers back to the initial state
+     * 
+     * @param goal Final state of a search
+     * @return List of moves from the initial state to goal
+     */
+    private static List<String> extractPath(SlidePuzzle goal) {
+        List<String> path = new LinkedList<>();
+        SlidePuzzle trav = goal;
+        while (trav.parent != null) {
+            path.add(trav.prevMove);
+            trav = trav.parent;
+        }
+        Collections.reverse(path);
+        return path;
     }
 
     /**
-     * Heuristic function based on Manhattan distance of tiles to correct spot
+     * Heuristic function based on Manhattan distance of tiles to correct spot, not counting the blank
      * 
      * @param state State of the board
      * @return Function value
      */
     private int h2(SlidePuzzle state) {
         int sum = 0;
-        int[][] solved = makeGrid(m, n);
         for (int i = 0; i < m; i++) {
             for (int j = 0; j < n; j++) {
-                int[] ind = getIndices(solved[i][j]);
-                sum += Math.abs(ind[0] - i) + Math.abs(ind[1] - j);
+                int tile = state.grid[i][j];
+                if (tile != 0) {
+                    sum += Math.abs(tile / n - i) + Math.abs(tile % n - j);
+                }
             }
         }
         return sum;
     }
 
     /**
-     * Helper for h2, returns the indices of a specified value 
+     * Returns the indices of a specified value 
      * 
      * @param x value to find index of
      * @return int[2] with indices
@@ -569,6 +602,386 @@ public class SlidePuzzle implements Comparable<SlidePuzzle> {
         throw new Exception("No path found.");
     }
 
+    /**
+     * Solves puzzle by reducing it one row or column at a time and prints the solution
+     * The solution is not optimal, but the runtime is polynomial in m*n
+     * The remaining 2*2 board (or the whole board if m or n is 1) is solved with A* using h2
+     * 
+     * @return Number of moves
+     * @throws IllegalStateException Board could not be reduced
+     */
+    public int solveReduction() throws IllegalStateException {
+        SlidePuzzle work = duplicate();
+        List<String> path = new ArrayList<>();
+
+        // cells that hold a tile in its final position
+        boolean[][] locked = new boolean[m][n];
+
+        // size of the unsolved top left subpuzzle
+        int rows = m;
+        int cols = n;
+
+        // a single row or column cannot be reduced any further
+        if (m > 1 && n > 1) {
+            while (rows > 2 || cols > 2) {
+                if (rows >= cols) {
+                    work.reduceRow(rows-1, cols, locked, path);
+                    rows--;
+                } else {
+                    work.reduceCol(cols-1, rows, locked, path);
+                    cols--;
+                }
+            }
+        }
+
+        // hand the residual board to A*
+        SlidePuzzle residual = new SlidePuzzle(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                int tile = work.grid[i][j];
+                residual.grid[i][j] = (tile / n) * cols + tile % n;
+            }
+        }
+        residual.r = work.r;
+        residual.c = work.c;
+        List<String> residualPath = new ArrayList<>();
+        if (residual.searchH2(residualPath) < 0) {
+            throw new IllegalStateException("No path found.");
+        }
+        for (String move : residualPath) {
+            work.applyMove(move, path);
+        }
+
+        if (!gridToString(work).equals(getSolvedKey())) {
+            throw new IllegalStateException("No path found.");
+        }
+        System.out.println(path.toString());
+        System.out.println("Number of moves: " + path.size() + "\n");
+        return path.size();
+    }
+
+    /**
+     * Solves row i of the subpuzzle from right to left and locks it
+     * 
+     * @param i Row to solve, at least 2
+     * @param cols Number of unsolved cols
+     * @param locked Cells that cannot be moved
+     * @param path List to append moves to
+     */
+    private void reduceRow(int i, int cols, boolean[][] locked, List<String> path) {
+        for (int j = cols-1; j >= 2; j--) {
+            placeTileOrFail(i*n + j, i, j, locked, path);
+            locked[i][j] = true;
+        }
+        // last two tiles are lined up in the corner and rotated in together
+        solvePair(i, cols, true, locked, path);
+    }
+
+    /**
+     * Solves col j of the subpuzzle from bottom to top and locks it
+     * 
+     * @param j Col to solve, at least 2
+     * @param rows Number of unsolved rows
+     * @param locked Cells that cannot be moved
+     * @param path List to append moves to
+     */
+    private void reduceCol(int j, int rows, boolean[][] locked, List<String> path) {
+        for (int i = rows-1; i >= 2; i--) {
+            placeTileOrFail(i*n + j, i, j, locked, path);
+            locked[i][j] = true;
+        }
+        // last two tiles are lined up in the corner and rotated in together
+        solvePair(j, rows, false, locked, path);
+    }
+
+    /**
+     * Places the last two tiles of a row or col, x next to the corner and y in the corner
+     * x is moved to y's target, y waits next to it, then both are rotated into place
+     * Falls back to a search over a small window around the corner if the blank gets trapped
+     * 
+     * @param line Row or col being solved, at least 2
+     * @param width Number of unsolved cells across the line
+     * @param isRow True if solving a row, false if solving a col
+     * @param locked Cells that cannot be moved
+     * @param path List to append moves to
+     */
+    private void solvePair(int line, int width, boolean isRow, boolean[][] locked, List<String> path) {
+        int[] xCell = isRow ? new int[] {line, 1} : new int[] {1, line};
+        int[] yCell = isRow ? new int[] {line, 0} : new int[] {0, line};
+        int[] waitCell = isRow ? new int[] {line-1, 0} : new int[] {0, line-1};
+        int x = xCell[0]*n + xCell[1];
+        int y = yCell[0]*n + yCell[1];
+        if (grid[xCell[0]][xCell[1]] != x || grid[yCell[0]][yCell[1]] != y) {
+            placeTileOrFail(x, yCell[0], yCell[1], locked, path);
+            locked[yCell[0]][yCell[1]] = true;
+            if (placeTile(y, waitCell[0], waitCell[1], locked, path)) {
+                locked[waitCell[0]][waitCell[1]] = true;
+                moveBlankOrFail(xCell[0], xCell[1], locked, path);
+                locked[yCell[0]][yCell[1]] = false;
+                locked[waitCell[0]][waitCell[1]] = false;
+                // x slides into its target, then y slides into the corner
+                applyMove(isRow ? "left" : "up", path);
+                applyMove(isRow ? "up" : "left", path);
+            } else {
+                locked[yCell[0]][yCell[1]] = false;
+                // up to three lines deep and three cells across, ending at the corner
+                int far = Math.min(2, width-1);
+                if (isRow) {
+                    solveWindow(x, xCell, y, yCell, line-2, line, 0, far, locked, path);
+                } else {
+                    solveWindow(x, xCell, y, yCell, 0, far, line-2, line, locked, path);
+                }
+            }
+        }
+        locked[xCell[0]][xCell[1]] = true;
+        locked[yCell[0]][yCell[1]] = true;
+    }
+
+    /**
+     * Breadth first search over the positions of x, y, and the blank inside a small window
+     * Other unlocked tiles inside the window are allowed to end up anywhere
+     * 
+     * @param x First tile
+     * @param xCell Target row and col of x
+     * @param y Second tile
+     * @param yCell Target row and col of y
+     * @param r0 Top row of window
+     * @param r1 Bottom row of window
+     * @param c0 Left col of window
+     * @param c1 Right col of window
+     * @param locked Cells that cannot be moved
+     * @param path List to append moves to
+     * @throws IllegalStateException Tiles cannot be placed inside the window
+     */
+    private void solveWindow(int x, int[] xCell, int y, int[] yCell, int r0, int r1, int c0, int c1,
+            boolean[][] locked, List<String> path) throws IllegalStateException {
+        int h = r1 - r0 + 1;
+        int w = c1 - c0 + 1;
+        int size = h * w;
+        int px = -1;
+        int py = -1;
+        for (int i = r0; i <= r1; i++) {
+            for (int j = c0; j <= c1; j++) {
+                if (grid[i][j] == x) {
+                    px = (i - r0) * w + (j - c0);
+                } else if (grid[i][j] == y) {
+                    py = (i - r0) * w + (j - c0);
+                }
+            }
+        }
+        if (px < 0 || py < 0 || r < r0 || r > r1 || c < c0 || c > c1) {
+            throw new IllegalStateException("Board could not be reduced.");
+        }
+        int gx = (xCell[0] - r0) * w + (xCell[1] - c0);
+        int gy = (yCell[0] - r0) * w + (yCell[1] - c0);
+
+        // state is (x position, y position, blank position)
+        int[] prev = new int[size * size * size];
+        Arrays.fill(prev, -1);
+        int start = (px * size + py) * size + (r - r0) * w + (c - c0);
+        prev[start] = start;
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        int end = -1;
+        while (!queue.isEmpty() && end < 0) {
+            int state = queue.poll();
+            int b = state % size;
+            int sx = state / size / size;
+            int sy = state / size % size;
+            if (sx == gx && sy == gy) {
+                end = state;
+                break;
+            }
+            int[] neighbors = {b - w, b + w, b % w == 0 ? -1 : b - 1, b % w == w - 1 ? -1 : b + 1};
+            for (int nb : neighbors) {
+                if (nb < 0 || nb >= size || locked[r0 + nb / w][c0 + nb % w]) {
+                    continue;
+                }
+                int nx = afterMove(sx, nb, b);
+                int ny = afterMove(sy, nb, b);
+                int next = (nx * size + ny) * size + nb;
+                if (prev[next] < 0) {
+                    prev[next] = state;
+                    queue.add(next);
+                }
+            }
+        }
+        if (end < 0) {
+            throw new IllegalStateException("Board could not be reduced.");
+        }
+
+        // walk back through the blank positions and replay them
+        List<Integer> blanks = new ArrayList<>();
+        for (int state = end; state != start; state = prev[state]) {
+            blanks.add(state % size);
+        }
+        Collections.reverse(blanks);
+        for (int b : blanks) {
+            moveBlankOrFail(r0 + b / w, c0 + b % w, locked, path);
+        }
+    }
+
+    /**
+     * Helper for solveWindow, returns where a tile ends up after the blank moves
+     * 
+     * @param tile Position of the tile
+     * @param to Position the blank moves to
+     * @param from Position the blank moves from
+     * @return New position of the tile
+     */
+    private static int afterMove(int tile, int to, int from) {
+        return tile == to ? from : tile;
+    }
+
+    /**
+     * Moves a tile to the target cell without disturbing locked cells
+     * 
+     * @param tile Tile to move
+     * @param tr Target row
+     * @param tc Target col
+     * @param locked Cells that cannot be moved
+     * @param path List to append moves to
+     * @return True if the tile reached the target
+     */
+    private boolean placeTile(int tile, int tr, int tc, boolean[][] locked, List<String> path) {
+        int[] ind = getIndices(tile);
+        List<int[]> route = findRoute(ind[0], ind[1], tr, tc, locked);
+        if (route == null) {
+            return false;
+        }
+        int tileR = ind[0];
+        int tileC = ind[1];
+        for (int[] step : route) {
+            // bring the blank in front of the tile without moving the tile
+            locked[tileR][tileC] = true;
+            boolean reached = moveBlankTo(step[0], step[1], locked, path);
+            locked[tileR][tileC] = false;
+            if (!reached) {
+                return false;
+            }
+            moveBlankOrFail(tileR, tileC, locked, path);
+            tileR = step[0];
+            tileC = step[1];
+        }
+        return true;
+    }
+
+    /**
+     * Same as placeTile, but the tile must be placeable
+     * 
+     * @throws IllegalStateException Tile could not be placed
+     */
+    private void placeTileOrFail(int tile, int tr, int tc, boolean[][] locked, List<String> path)
+            throws IllegalStateException {
+        if (!placeTile(tile, tr, tc, locked, path)) {
+            throw new IllegalStateException("Board could not be reduced.");
+        }
+    }
+
+    /**
+     * Moves the blank tile to the target cell without disturbing locked cells
+     * 
+     * @param tr Target row
+     * @param tc Target col
+     * @param locked Cells that cannot be moved
+     * @param path List to append moves to
+     * @return True if the blank reached the target
+     */
+    private boolean moveBlankTo(int tr, int tc, boolean[][] locked, List<String> path) {
+        List<int[]> route = findRoute(r, c, tr, tc, locked);
+        if (route == null) {
+            return false;
+        }
+        for (int[] step : route) {
+            if (step[0] < r) {
+                applyMove("up", path);
+            } else if (step[0] > r) {
+                applyMove("down", path);
+            } else if (step[1] < c) {
+                applyMove("left", path);
+            } else {
+                applyMove("right", path);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as moveBlankTo, but the target must be reachable
+     * 
+     * @throws IllegalStateException Blank could not reach the target
+     */
+    private void moveBlankOrFail(int tr, int tc, boolean[][] locked, List<String> path)
+            throws IllegalStateException {
+        if (!moveBlankTo(tr, tc, locked, path)) {
+            throw new IllegalStateException("Board could not be reduced.");
+        }
+    }
+
+    /**
+     * Breadth first search for the shortest route between two cells that avoids locked cells
+     * 
+     * @param sr Start row
+     * @param sc Start col
+     * @param tr Target row
+     * @param tc Target col
+     * @param locked Cells that cannot be entered
+     * @return Cells along the route excluding the start, or null if there is no route
+     */
+    private List<int[]> findRoute(int sr, int sc, int tr, int tc, boolean[][] locked) {
+        int[] prev = new int[m*n];
+        Arrays.fill(prev, -1);
+        int start = sr*n + sc;
+        int end = tr*n + tc;
+        prev[start] = start;
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty() && prev[end] < 0) {
+            int cell = queue.poll();
+            int i = cell / n;
+            int j = cell % n;
+            int[][] neighbors = {{i-1, j}, {i+1, j}, {i, j-1}, {i, j+1}};
+            for (int[] nb : neighbors) {
+                if (nb[0] < 0 || nb[0] >= m || nb[1] < 0 || nb[1] >= n || locked[nb[0]][nb[1]]) {
+                    continue;
+                }
+                int next = nb[0]*n + nb[1];
+                if (prev[next] < 0) {
+                    prev[next] = cell;
+                    queue.add(next);
+                }
+            }
+        }
+        if (prev[end] < 0) {
+            return null;
+        }
+        List<int[]> route = new ArrayList<>();
+        for (int cell = end; cell != start; cell = prev[cell]) {
+            route.add(new int[] {cell / n, cell % n});
+        }
+        Collections.reverse(route);
+        return route;
+    }
+
+    /**
+     * Moves the blank tile in the specified direction and records the move
+     * 
+     * @param move Either "up", "down", "left", or "right"
+     * @param path List to append the move to
+     */
+    private void applyMove(String move, List<String> path) {
+        if (move.equals("up")) {
+            up();
+        } else if (move.equals("down")) {
+            down();
+        } else if (move.equals("left")) {
+            left();
+        } else {
+            right();
+        }
+        path.add(move);
+    }
+
     /**
      * Returns the solved state as a string
      * 
@@ -652,6 +1065,8 @@ public class SlidePuzzle implements Comparable<SlidePuzzle> {
                 } else if (arguments[1].equals("beam")) {
                     int k = Integer.parseInt(arguments[2]);
                     p.solveBeam(k);
+                } else if (arguments[1].equals("reduction")) {
+                    p.solveReduction();
                 } else {
                     throw new IllegalArgumentException("Invalid search method.");
                 }
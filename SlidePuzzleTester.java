@@ -15,4 +15,28 @@ public class SlidePuzzleTester {
         Assert.assertEquals("1 8 2 3 4 5 6 7 9 16 10 11 12 13 " +
         "14 15 23 18 19 20 27 21 22 24 17 25 26 0", SlidePuzzle.gridToString(p));
     }
+
+    @Test
+    public void testReduction() {
+        SlidePuzzle p = new SlidePuzzle(6, 6);
+        p.randomize(1000, 10);
+        Assert.assertEquals(445, p.solveReduction());
+
+        p = new SlidePuzzle(5, 2);
+        p.randomize(500, 3);
+        Assert.assertEquals(43, p.solveReduction());
+
+        p = new SlidePuzzle(1, 50);
+        p.randomize(25, 1);
+        Assert.assertEquals(3, p.solveReduction());
+    }
+
+    @Test
+    public void testSearch() throws Exception {
+        SlidePuzzle p = new SlidePuzzle(4, 4);
+        p.randomize(25, 1);
+        Assert.assertEquals(10, p.solveAStar("h1"));
+        Assert.assertEquals(10, p.solveAStar("h2"));
+        Assert.assertEquals(10, p.solveBeam(5));
+    }
 }